@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Jim Earley (xml.jim@gmail.com)
+ *
+ * Licensed under the Apache NON-AI License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://raw.githubusercontent.com/non-ai-licenses/non-ai-licenses/main/NON-AI-APACHE2
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.xmljim.service.di.benchmarks;
+
+import io.github.xmljim.service.di.annotations.Inject;
+import io.github.xmljim.service.di.inject.Injector;
+import io.github.xmljim.service.di.inject.InjectorImpl;
+import io.github.xmljim.service.di.provider.Providers;
+import io.github.xmljim.service.di.registry.ServiceRegistries;
+import io.github.xmljim.service.di.registry.ServiceRegistry;
+import io.github.xmljim.service.di.registry.ServiceRegistryImpl;
+import io.github.xmljim.service.di.service.Service;
+import io.github.xmljim.service.di.service.Services;
+import io.github.xmljim.service.di.util.InstantiationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating a TRANSIENT provider instance (constructor plus field injection) and of
+ * {@link ServiceRegistry#loadClass(Class)} under each {@link InstantiationStrategy}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstantiationBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLE"})
+    public InstantiationStrategy strategy;
+
+    private ServiceRegistry serviceRegistry;
+
+    @Setup
+    public void setup() {
+        serviceRegistry = ServiceRegistries.newServiceRegistry();
+        serviceRegistry.setInstantiationStrategy(strategy);
+
+        register(ServiceRegistry.class, ServiceRegistryImpl.class);
+        register(Injector.class, InjectorImpl.class);
+        register(Repository.class, InMemoryRepository.class);
+        register(Formatter.class, UpperCaseFormatter.class);
+        register(Greeter.class, RepositoryGreeter.class);
+    }
+
+    private void register(Class<?> serviceClass, Class<?> providerClass) {
+        Service service = Services.newService(serviceClass, serviceRegistry);
+        service.appendProvider(Providers.newProvider(service, providerClass));
+        serviceRegistry.appendService(service);
+    }
+
+    @Benchmark
+    public Greeter transientProvider() {
+        return serviceRegistry.loadServiceProvider(Greeter.class);
+    }
+
+    @Benchmark
+    public GreeterClient injectorLoadClass() {
+        return serviceRegistry.loadClass(GreeterClient.class);
+    }
+
+    public interface Repository {
+        String find(String key);
+    }
+
+    public interface Formatter {
+        String format(String value);
+    }
+
+    public interface Greeter {
+        String greet(String key);
+    }
+
+    public static class InMemoryRepository implements Repository {
+        @Override
+        public String find(String key) {
+            return key;
+        }
+    }
+
+    public static class UpperCaseFormatter implements Formatter {
+        @Override
+        public String format(String value) {
+            return value.toUpperCase();
+        }
+    }
+
+    public static class RepositoryGreeter implements Greeter {
+        private final Repository repository;
+
+        @Inject
+        private Formatter formatter;
+
+        public RepositoryGreeter(Repository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public String greet(String key) {
+            return formatter.format("hello " + repository.find(key));
+        }
+    }
+
+    public static class GreeterClient {
+        private final Greeter greeter;
+
+        @Inject
+        private Repository repository;
+
+        public GreeterClient(Greeter greeter) {
+            this.greeter = greeter;
+        }
+
+        public String greet() {
+            return greeter.greet(repository.find("client"));
+        }
+    }
+}
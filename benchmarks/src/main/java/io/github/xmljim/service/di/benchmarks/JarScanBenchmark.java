@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Jim Earley (xml.jim@gmail.com)
+ *
+ * Licensed under the Apache NON-AI License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://raw.githubusercontent.com/non-ai-licenses/non-ai-licenses/main/NON-AI-APACHE2
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.xmljim.service.di.benchmarks;
+
+import io.github.xmljim.service.di.scanner.Scanner;
+import io.github.xmljim.service.di.scanner.Scanners;
+import io.github.xmljim.service.di.util.ClassFilters;
+import io.github.xmljim.service.di.util.NameFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Compares discovering the service files of a set of jars with the classpath scanner, which reads each jar's central
+ * directory, with opening each jar as a zip file system and walking its META-INF/services folder, which is how the
+ * classpath scanner read jars before
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JarScanBenchmark {
+
+    @Param({"200"})
+    public int jarCount;
+
+    /**
+     * Class entries per jar. Only the central directory is read, but it grows with the number of entries
+     */
+    @Param({"200"})
+    public int classCount;
+
+    private Path directory;
+    private final List<Path> jars = new ArrayList<>();
+    private URLClassLoader classLoader;
+    private Scanner scanner;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("jar-scan");
+        for (int j = 0; j < jarCount; j++) {
+            Path jar = directory.resolve("lib" + j + ".jar");
+            try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+                for (int c = 0; c < classCount; c++) {
+                    out.putNextEntry(new ZipEntry("com/example/lib" + j + "/Class" + c + ".class"));
+                    out.write(new byte[512]);
+                    out.closeEntry();
+                }
+                //class loaders only find the META-INF/services/ resource through its directory entry
+                out.putNextEntry(new ZipEntry("META-INF/services/"));
+                out.closeEntry();
+                out.putNextEntry(new ZipEntry("META-INF/services/com.example.Service" + j));
+                out.write(("com.example.lib" + j + ".Class0\ncom.example.lib" + j + ".Class1\n")
+                    .getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+            jars.add(jar);
+        }
+
+        var urls = new URL[jars.size()];
+        for (int j = 0; j < urls.length; j++) {
+            urls[j] = jars.get(j).toUri().toURL();
+        }
+        classLoader = new URLClassLoader(urls, null);
+        //providers excluded by name keep their declarations but skip the class file lookup for their metadata,
+        //which would otherwise search every jar of the class loader and dominate the reading being measured
+        scanner = Scanners.newClasspathScanner(classLoader, ClassFilters.DEFAULT, (NameFilter) className -> false, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void classpathScanner(Blackhole blackhole) {
+        blackhole.consume(((Scanners) scanner).declarations());
+    }
+
+    @Benchmark
+    public void zipFileSystem(Blackhole blackhole) throws IOException {
+        for (Path jar : jars) {
+            try (FileSystem jarfs = FileSystems.newFileSystem(jar);
+                 Stream<Path> files = Files.walk(jarfs.getPath("/META-INF/services/"))) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    blackhole.consume(Files.readAllLines(file));
+                }
+            }
+        }
+    }
+}